@@ -53,11 +53,12 @@ public class SchedulingSimulator extends JFrame {
         inputArea = new JTextArea(12, 20);
         inputArea.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 12));
         inputArea.setText(
-            "// Format: pid arrival burst priority\n" +
-            "P1 0 4 3\n" +
-            "P2 1 5 1\n" +
-            "P3 2 2 4\n" +
-            "P4 3 3 2\n"
+            "// Format: pid arrival burst priority [deadline] [period]\n" +
+            "// deadline is relative to arrival, '-' for none\n" +
+            "P1 0 4 3 6\n" +
+            "P2 1 5 1 12\n" +
+            "P3 2 2 4 4\n" +
+            "P4 3 3 2 10\n"
         );
         
         JScrollPane inputScroll = new JScrollPane(inputArea);
@@ -77,7 +78,8 @@ public class SchedulingSimulator extends JFrame {
         
         gbc.gridy = 1;
         String[] algos = {"FCFS", "SJF (non-preemptive)", "Round Robin (preemptive)", 
-                         "Priority (non-preemptive)", "Adaptive Round Robin"};
+                         "Priority (non-preemptive)", "Adaptive Round Robin",
+                         "EDF (preemptive)", "Rate Monotonic (preemptive)"};
         algoCombo = new JComboBox<>(algos);
         controlsPanel.add(algoCombo, gbc);
 
@@ -154,12 +156,24 @@ public class SchedulingSimulator extends JFrame {
                 int arrival = Integer.parseInt(tok[1]);
                 int burst = Integer.parseInt(tok[2]);
                 int priority = tok.length >= 4 ? Integer.parseInt(tok[3]) : 1;
-                list.add(new Process(pid, arrival, burst, priority));
+                int deadline = tok.length >= 5 ? optionalInt(tok[4], -1) : -1;
+                int period = tok.length >= 6 ? optionalInt(tok[5], 0) : 0;
+                // Implicit deadline: a periodic job must finish before its next release
+                if (deadline < 0 && period > 0) deadline = period;
+                list.add(new Process(pid, arrival, burst, priority, deadline, period));
             } catch (Exception ex) {}
         }
         return list;
     }
 
+    // Deadlines and periods must be positive; '-' is the only way to omit one
+    private int optionalInt(String tok, int none) {
+        if (tok.equals("-")) return none;
+        int v = Integer.parseInt(tok);
+        if (v <= 0) throw new NumberFormatException("non-positive value: " + tok);
+        return v;
+    }
+
     private void runSelected() {
         List<Process> processes = parseInput();
         if (processes.isEmpty()) {
@@ -189,6 +203,12 @@ public class SchedulingSimulator extends JFrame {
             case "Adaptive Round Robin":
                 res = Scheduler.adaptiveRoundRobin(copyProcesses(processes));
                 break;
+            case "EDF (preemptive)":
+                res = Scheduler.earliestDeadlineFirst(copyProcesses(processes));
+                break;
+            case "Rate Monotonic (preemptive)":
+                res = Scheduler.rateMonotonic(copyProcesses(processes));
+                break;
         }
 
         showResult(res, alg);
@@ -210,27 +230,45 @@ public class SchedulingSimulator extends JFrame {
         ScheduleResult r3 = Scheduler.roundRobin(copyProcesses(processes), quantum);
         ScheduleResult r4 = Scheduler.priorityNonPreemptive(copyProcesses(processes));
         ScheduleResult r5 = Scheduler.adaptiveRoundRobin(copyProcesses(processes));
-
-        sb.append(String.format("%-35s %-10s %-10s %-10s\n", "Algorithm", "AvgWT", "AvgTAT", "ContextSwitches"));
-        sb.append("---------------------------------------------------------------\n");
-        sb.append(String.format("%-35s %-10.2f %-10.2f %-10d\n", "FCFS", r1.avgWaitingTime(), r1.avgTurnaroundTime(), r1.contextSwitches));
-        sb.append(String.format("%-35s %-10.2f %-10.2f %-10d\n", "SJF (non-preemptive)", r2.avgWaitingTime(), r2.avgTurnaroundTime(), r2.contextSwitches));
-        sb.append(String.format("%-35s %-10.2f %-10.2f %-10d\n", "Round Robin (quantum="+quantum+")", r3.avgWaitingTime(), r3.avgTurnaroundTime(), r3.contextSwitches));
-        sb.append(String.format("%-35s %-10.2f %-10.2f %-10d\n", "Priority (non-preemptive)", r4.avgWaitingTime(), r4.avgTurnaroundTime(), r4.contextSwitches));
-        sb.append(String.format("%-35s %-10.2f %-10.2f %-10d\n", "Adaptive Round Robin", r5.avgWaitingTime(), r5.avgTurnaroundTime(), r5.contextSwitches));
+        ScheduleResult r6 = Scheduler.earliestDeadlineFirst(copyProcesses(processes));
+        ScheduleResult r7 = Scheduler.rateMonotonic(copyProcesses(processes));
+
+        sb.append(String.format("%-35s %-10s %-10s %-16s %-10s %-10s\n", "Algorithm", "AvgWT", "AvgTAT", "ContextSwitches", "Miss%", "MaxLate"));
+        sb.append("-----------------------------------------------------------------------------------------------\n");
+        appendComparisonRow(sb, "FCFS", r1);
+        appendComparisonRow(sb, "SJF (non-preemptive)", r2);
+        appendComparisonRow(sb, "Round Robin (quantum="+quantum+")", r3);
+        appendComparisonRow(sb, "Priority (non-preemptive)", r4);
+        appendComparisonRow(sb, "Adaptive Round Robin", r5);
+        appendComparisonRow(sb, "EDF (preemptive)", r6);
+        appendComparisonRow(sb, "Rate Monotonic (preemptive)", r7);
+
+        if (r1.hasDeadlines()) {
+            sb.append("\nSchedulability: ").append(r1.schedulabilitySummary()).append("\n");
+        }
 
         outputArea.setText(sb.toString());
-        ganttPanel.setSchedule(r5.segments, "Comparison Overview (Gantt for Adaptive RR shown)");
+        ganttPanel.setSchedule(r5.segments, "Comparison Overview (Gantt for Adaptive RR shown)", r5.processes);
+    }
+
+    private void appendComparisonRow(StringBuilder sb, String name, ScheduleResult r) {
+        String miss = r.hasDeadlines() ? String.format("%.2f", r.deadlineMissRatio()*100.0) : "-";
+        String late = r.hasDeadlines() ? String.valueOf(r.maxLateness()) : "-";
+        sb.append(String.format("%-35s %-10.2f %-10.2f %-16d %-10s %-10s\n", name, r.avgWaitingTime(), r.avgTurnaroundTime(), r.contextSwitches, miss, late));
     }
 
     private void showResult(ScheduleResult res, String algName) {
         if (res == null) return;
         StringBuilder sb = new StringBuilder();
         sb.append("Algorithm: ").append(algName).append("\n\n");
-        sb.append(String.format("%-6s %-8s %-8s %-8s\n", "PID","Arrival","Burst","Priority"));
-        sb.append("--------------------------------\n");
+        sb.append(String.format("%-6s %-8s %-8s %-8s %-9s %-6s %-8s %-10s\n", "PID","Arrival","Burst","Priority","Deadline","AbsDL","Period","Completion"));
+        sb.append("--------------------------------------------------------------------\n");
         for (Process p : res.processes) {
-            sb.append(String.format("%-6s %-8d %-8d %-8d\n", p.pid, p.arrivalTime, p.burstTime, p.priority));
+            String deadline = p.hasDeadline() ? String.valueOf(p.deadline) : "-";
+            String absDeadline = p.hasDeadline() ? String.valueOf(p.absoluteDeadline()) : "-";
+            String period = p.period > 0 ? String.valueOf(p.period) : "-";
+            String completion = p.completionTime + (p.missedDeadline() ? " MISS" : "");
+            sb.append(String.format("%-6s %-8d %-8d %-8d %-9s %-6s %-8s %-10s\n", p.pid, p.arrivalTime, p.burstTime, p.priority, deadline, absDeadline, period, completion));
         }
 
         sb.append("\nMetrics:\n");
@@ -242,15 +280,23 @@ public class SchedulingSimulator extends JFrame {
         if (algName.equals("Adaptive Round Robin")) {
             sb.append(String.format("Adaptive Time Quantum  : %d\n", res.adaptiveQuantum));
         }
+
+        if (res.hasDeadlines()) {
+            sb.append(String.format("Deadline Misses        : %d/%d (%.2f%%)\n", res.deadlineMisses(), res.deadlineCount(), res.deadlineMissRatio()*100.0));
+            sb.append(String.format("Maximum Lateness       : %d\n", res.maxLateness()));
+            if (algName.equals("EDF (preemptive)") || algName.equals("Rate Monotonic (preemptive)")) {
+                sb.append("Schedulability         : ").append(res.schedulabilitySummary()).append("\n");
+            }
+        }
         
         sb.append("\nGantt Chart shown above.");
         outputArea.setText(sb.toString());
-        ganttPanel.setSchedule(res.segments, algName + " (Gantt)");
+        ganttPanel.setSchedule(res.segments, algName + " (Gantt)", res.processes);
     }
 
     private List<Process> copyProcesses(List<Process> src) {
         List<Process> c = new ArrayList<>();
-        for (Process p : src) c.add(new Process(p.pid, p.arrivalTime, p.burstTime, p.priority));
+        for (Process p : src) c.add(new Process(p.pid, p.arrivalTime, p.burstTime, p.priority, p.deadline, p.period));
         return c;
     }
 
@@ -268,6 +314,8 @@ public class SchedulingSimulator extends JFrame {
         int burstTime;
         int remaining;
         int priority;
+        int deadline = -1; // relative to arrival, -1 if none
+        int period = 0;    // 0 if aperiodic
         int startTime = -1;
         int completionTime = -1;
         int waitingTime = 0;
@@ -280,6 +328,30 @@ public class SchedulingSimulator extends JFrame {
             this.remaining = burstTime;
             this.priority = priority;
         }
+
+        public Process(String pid, int arrivalTime, int burstTime, int priority, int deadline, int period) {
+            this(pid, arrivalTime, burstTime, priority);
+            this.deadline = deadline;
+            this.period = period;
+        }
+
+        boolean hasDeadline() {
+            return deadline >= 0;
+        }
+
+        int absoluteDeadline() {
+            return hasDeadline() ? arrivalTime + deadline : Integer.MAX_VALUE;
+        }
+
+        // Rate-Monotonic rank: shorter period means higher priority
+        int ratePeriod() {
+            if (period > 0) return period;
+            return hasDeadline() ? deadline : Integer.MAX_VALUE;
+        }
+
+        boolean missedDeadline() {
+            return hasDeadline() && completionTime > absoluteDeadline();
+        }
     }
 
     static class Segment {
@@ -338,6 +410,71 @@ public class SchedulingSimulator extends JFrame {
             if (totalTime == 0) return 0.0;
             return (double) totalBurst / totalTime;
         }
+
+        boolean hasDeadlines() {
+            return deadlineCount() > 0;
+        }
+
+        int deadlineCount() {
+            int n = 0;
+            for (Process p : processes) if (p.hasDeadline()) n++;
+            return n;
+        }
+
+        int deadlineMisses() {
+            int n = 0;
+            for (Process p : processes) if (p.missedDeadline()) n++;
+            return n;
+        }
+
+        double deadlineMissRatio() {
+            int n = deadlineCount();
+            if (n == 0) return 0.0;
+            return (double) deadlineMisses() / n;
+        }
+
+        int maxLateness() {
+            int max = Integer.MIN_VALUE;
+            for (Process p : processes) {
+                if (p.hasDeadline()) max = Math.max(max, p.completionTime - p.absoluteDeadline());
+            }
+            return max == Integer.MIN_VALUE ? 0 : max;
+        }
+
+        // Processor demand of the deadline-constrained jobs, C / min(D, T)
+        double deadlineUtilization() {
+            double u = 0;
+            for (Process p : processes) {
+                if (!p.hasDeadline()) continue;
+                int window = p.period > 0 ? Math.min(p.deadline, p.period) : p.deadline;
+                u += (double) p.burstTime / window;
+            }
+            return u;
+        }
+
+        // Liu & Layland only holds when every deadline equals its period (D = T)
+        boolean implicitDeadlines() {
+            for (Process p : processes) {
+                if (p.hasDeadline() && (p.period <= 0 || p.deadline != p.period)) return false;
+            }
+            return true;
+        }
+
+        // Sufficient tests on the task set as periodic tasks (C, D, T), not on the
+        // one-job-per-line simulation: EDF up to U <= 1, RM up to n(2^(1/n) - 1)
+        String schedulabilitySummary() {
+            int n = deadlineCount();
+            double u = deadlineUtilization();
+            String edf = u <= 1.0 ? "guaranteed" : "not guaranteed";
+            String rm;
+            if (implicitDeadlines()) {
+                double rmBound = n * (Math.pow(2.0, 1.0 / n) - 1);
+                rm = String.format("bound %.2f %s", rmBound, u <= rmBound ? "guaranteed" : "not guaranteed");
+            } else {
+                rm = "n/a (requires D = T)";
+            }
+            return String.format("periodic task set U=%.2f, EDF bound 1.00 %s, RM %s", u, edf, rm);
+        }
     }
 
     static class Scheduler {
@@ -580,6 +717,67 @@ public class SchedulingSimulator extends JFrame {
             return new ScheduleResult(list, mergeSegments(segments), Math.max(0, ctx-0), 0, quantum);
         }
 
+        static ScheduleResult earliestDeadlineFirst(List<Process> procs) {
+            return preemptiveByHeap(procs, Comparator.comparingInt(p -> p.absoluteDeadline()));
+        }
+
+        static ScheduleResult rateMonotonic(List<Process> procs) {
+            return preemptiveByHeap(procs, Comparator.comparingInt(p -> p.ratePeriod()));
+        }
+
+        // Runs the head of the ready heap until it finishes or the next arrival may preempt it
+        static ScheduleResult preemptiveByHeap(List<Process> procs, Comparator<Process> order) {
+            List<Process> list = new ArrayList<>(procs);
+            list.sort(Comparator.comparingInt(p -> p.arrivalTime));
+            // Ties fall back to arrival, then input order, so a running job keeps the CPU against equal keys
+            Map<Process, Integer> seq = new IdentityHashMap<>();
+            for (int i=0;i<list.size();i++) seq.put(list.get(i), i);
+            PriorityQueue<Process> ready = new PriorityQueue<>(order.thenComparingInt(seq::get));
+            int time = 0;
+            int idx = 0;
+            List<Segment> segments = new ArrayList<>();
+            int ctx = 0;
+            int totalIdle = 0;
+            Process last = null;
+
+            while (true) {
+                while (idx < list.size() && list.get(idx).arrivalTime <= time) {
+                    ready.offer(list.get(idx));
+                    idx++;
+                }
+                if (ready.isEmpty()) {
+                    if (idx < list.size()) {
+                        int nextArrival = list.get(idx).arrivalTime;
+                        segments.add(new Segment("IDLE", time, nextArrival));
+                        totalIdle += (nextArrival - time);
+                        time = nextArrival;
+                        continue;
+                    } else {
+                        break;
+                    }
+                }
+                Process p = ready.poll();
+                if (p.startTime == -1) p.startTime = time;
+                int exec = p.remaining;
+                if (idx < list.size()) exec = Math.min(exec, list.get(idx).arrivalTime - time);
+                segments.add(new Segment(p.pid, time, time + exec));
+                if (last != null && !last.pid.equals(p.pid)) ctx++;
+                time += exec;
+                p.remaining -= exec;
+
+                if (p.remaining > 0) {
+                    ready.offer(p);
+                } else {
+                    p.completionTime = time;
+                    p.turnaroundTime = p.completionTime - p.arrivalTime;
+                    p.waitingTime = p.turnaroundTime - p.burstTime;
+                }
+                last = p;
+            }
+
+            return new ScheduleResult(list, mergeSegments(segments), ctx, totalIdle);
+        }
+
         static List<Segment> mergeSegments(List<Segment> segs) {
             if (segs.isEmpty()) return segs;
             List<Segment> out = new ArrayList<>();
@@ -600,6 +798,7 @@ public class SchedulingSimulator extends JFrame {
 
     static class GanttPanel extends JPanel {
         private List<Segment> segments = new ArrayList<>();
+        private List<Process> processes = new ArrayList<>();
         private String title = "";
 
         public GanttPanel() {
@@ -607,8 +806,9 @@ public class SchedulingSimulator extends JFrame {
             setBorder(BorderFactory.createLineBorder(Color.GRAY));
         }
 
-        public void setSchedule(List<Segment> segs, String title) {
+        public void setSchedule(List<Segment> segs, String title, List<Process> procs) {
             this.segments = segs == null ? new ArrayList<>() : segs;
+            this.processes = procs == null ? new ArrayList<>() : procs;
             this.title = title;
             repaint();
         }
@@ -665,6 +865,26 @@ public class SchedulingSimulator extends JFrame {
             Segment last = segments.get(segments.size()-1);
             int lastX = x0 + (int) Math.round((last.end - start) * pxPerUnit);
             g.drawString(String.valueOf(last.end), lastX - 2, y + ganttHeight + 15);
+
+            // Missed deadlines: red outline on the finishing segment, red tick at the deadline
+            Graphics2D g2 = (Graphics2D) g;
+            Stroke oldStroke = g2.getStroke();
+            g2.setColor(Color.RED);
+            for (Process p : processes) {
+                if (!p.missedDeadline()) continue;
+                for (Segment s : segments) {
+                    if (!s.pid.equals(p.pid) || s.end != p.completionTime) continue;
+                    int segX = x0 + (int) Math.round((s.start - start) * pxPerUnit);
+                    int segW = Math.max(2, (int) Math.round((s.end - s.start) * pxPerUnit));
+                    g2.setStroke(new BasicStroke(3));
+                    g2.drawRect(segX, y, segW, ganttHeight);
+                }
+                int dx = x0 + (int) Math.round((p.absoluteDeadline() - start) * pxPerUnit);
+                g2.setStroke(new BasicStroke(2));
+                g2.drawLine(dx, y - 8, dx, y + ganttHeight + 2);
+                g2.drawString(p.pid + " DL", dx - 10, y - 10);
+            }
+            g2.setStroke(oldStroke);
         }
     }
 }
\ No newline at end of file